@@ -0,0 +1,37 @@
+package com.example.taskmanager.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Marks beans that no request path depends on (springdoc / Swagger model) as lazy, so they are
+ * created on first use instead of during startup. Enabled by the {@code fast-start} profile.
+ * <p>
+ * In an AOT-built jar this condition, like every {@code @Conditional}, is evaluated at
+ * {@code process-aot} time, so it cannot be toggled when the image starts.
+ */
+@Component
+@ConditionalOnProperty(name = "app.startup.lazy-non-critical", havingValue = "true")
+public class LazyNonCriticalBeansPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final List<String> LAZY_PREFIXES = List.of("org.springdoc.", OpenApiConfig.class.getName());
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            String factoryBean = definition.getFactoryBeanName();
+            String owner = factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)
+                    ? beanFactory.getBeanDefinition(factoryBean).getBeanClassName()
+                    : definition.getBeanClassName();
+            if (owner != null && LAZY_PREFIXES.stream().anyMatch(owner::startsWith)) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -15,11 +16,14 @@ public class McpTokenFilter extends OncePerRequestFilter {
     private static final String HEADER_NAME = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    // Resolved from the MCP_TOKEN environment variable, or a property of the same name in tests.
+    @Value("${MCP_TOKEN:}")
+    private String required;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String path = request.getRequestURI();
         if (path != null && path.startsWith("/api/mcp")) {
-            String required = System.getenv("MCP_TOKEN");
             if (required != null && !required.isEmpty()) {
                 String got = request.getHeader(HEADER_NAME);
                 if (got == null || !got.startsWith(BEARER_PREFIX) || !required.equals(got.substring(BEARER_PREFIX.length()))) {
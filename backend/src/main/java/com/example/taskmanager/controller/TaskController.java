@@ -3,12 +3,14 @@ package com.example.taskmanager.controller;
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.service.TaskService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -18,8 +20,12 @@ public class TaskController {
 
     public TaskController(TaskService taskService) { this.taskService = taskService; }
 
-    @GetMapping
-    public List<TaskResponse> getAll() { return taskService.getAll(); }
+    // Streams rows from the DB cursor straight into the response body (no List<TaskResponse>).
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getAll(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        taskService.writeAllJson(response.getOutputStream());
+    }
 
     @GetMapping("/{id}")
     public TaskResponse getOne(@PathVariable Long id) { return taskService.getById(id); }
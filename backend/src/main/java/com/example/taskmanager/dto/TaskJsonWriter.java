@@ -0,0 +1,51 @@
+package com.example.taskmanager.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Writes task rows straight from a JDBC {@link ResultSet} to a {@link JsonGenerator} in the same
+ * shape Jackson produces for {@link TaskResponse}, without hydrating entities or building DTOs.
+ * The result set must select {@link #COLUMNS}, in that order.
+ * <p>
+ * The shape is pinned here rather than derived from the {@link ObjectMapper}: null fields are
+ * always written and {@code dueDate} is always an ISO-8601 string. Only the generator settings
+ * come from the mapper, so a {@code spring.jackson.*} change that affects {@code TaskResponse}
+ * must be mirrored here; {@code TaskControllerIntegrationTest} compares both responses.
+ */
+@Component
+public class TaskJsonWriter {
+
+    public static final String COLUMNS = "id, title, description, status, due_date";
+
+    private final JsonFactory factory;
+
+    public TaskJsonWriter(ObjectMapper objectMapper) {
+        this.factory = objectMapper.getFactory();
+    }
+
+    public void writeArray(ResultSet rows, OutputStream out) throws SQLException, IOException {
+        try (JsonGenerator gen = factory.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            gen.writeStartArray();
+            while (rows.next()) {
+                gen.writeStartObject();
+                gen.writeNumberField("id", rows.getLong(1));
+                gen.writeStringField("title", rows.getString(2));
+                gen.writeStringField("description", rows.getString(3));
+                gen.writeStringField("status", rows.getString(4));
+                LocalDate dueDate = rows.getObject(5, LocalDate.class);
+                gen.writeStringField("dueDate", dueDate != null ? dueDate.toString() : null);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanager.exception;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+// "error" and "type" are always present (possibly null); fieldErrors only for validation failures.
+public record ErrorResponse(String error, String type,
+                            @JsonInclude(JsonInclude.Include.NON_NULL) Map<String, String> fieldErrors) {
+
+    public ErrorResponse(String error, String type) {
+        this(error, type, null);
+    }
+}
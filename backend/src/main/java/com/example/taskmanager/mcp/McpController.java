@@ -2,8 +2,10 @@ package com.example.taskmanager.mcp;
 
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.dto.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,14 +18,20 @@ import java.util.LinkedHashMap;
 public class McpController {
 
     private final McpService mcpService;
+    private final StaticJsonPayload schemaPayload;
+    private final StaticJsonPayload helpPayload;
+    private final StaticJsonPayload specPayload;
 
-    public McpController(McpService mcpService) {
+    public McpController(McpService mcpService, ObjectMapper objectMapper) {
         this.mcpService = mcpService;
+        this.schemaPayload = StaticJsonPayload.of(objectMapper, mcpService.getJsonSchemaForTasks());
+        this.helpPayload = StaticJsonPayload.of(objectMapper, buildHelp());
+        this.specPayload = StaticJsonPayload.of(objectMapper, buildSpec());
     }
 
-    @GetMapping("/mcp-schema-tasks")
-    public Map<String, Object> mcpSchemaTasks() {
-        return mcpService.getJsonSchemaForTasks();
+    @GetMapping(value = "/mcp-schema-tasks", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> mcpSchemaTasks() {
+        return schemaPayload.toResponse();
     }
 
     @PostMapping("/mcp-tasks")
@@ -38,8 +46,17 @@ public class McpController {
         return mcpService.getSummary();
     }
 
-    @GetMapping("/mcp-help")
-    public Map<String, String> mcpHelp() {
+    @GetMapping(value = "/mcp-help", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> mcpHelp() {
+        return helpPayload.toResponse();
+    }
+
+    @GetMapping(value = "/mcp-spec", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> mcpSpec() {
+        return specPayload.toResponse();
+    }
+
+    private static Map<String, String> buildHelp() {
         Map<String, String> help = new LinkedHashMap<>();
         help.put("mcp-schema-tasks", "GET /api/mcp/mcp-schema-tasks - returns simplified JSON-Schema for Task objects");
         help.put("mcp-tasks", "POST /api/mcp/mcp-tasks - accepts JSON array of TaskRequest and inserts them into DB (max 1000 items)");
@@ -48,8 +65,7 @@ public class McpController {
         return help;
     }
 
-    @GetMapping("/mcp-spec")
-    public Map<String, Object> mcpSpec() {
+    private static Map<String, Object> buildSpec() {
         Map<String, Object> out = new LinkedHashMap<>();
         out.put("specVersion", "2025-06-18");
         out.put("tools", List.of("mcp-schema-tasks", "mcp-tasks", "mcp-tasks-summary", "mcp-help"));
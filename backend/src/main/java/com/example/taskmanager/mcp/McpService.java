@@ -27,13 +27,18 @@ public class McpService {
     private static final int MAX_BATCH = 1000;
 
     private final TaskRepository taskRepository;
-    private final Faker faker = new Faker(new Random());
+    private final Map<String, Object> taskSchema = Collections.unmodifiableMap(buildJsonSchemaForTasks());
 
     public McpService(TaskRepository taskRepository) {
         this.taskRepository = taskRepository;
     }
 
+    // The schema only depends on TaskStatus, so it is built once and shared.
     public Map<String, Object> getJsonSchemaForTasks() {
+        return taskSchema;
+    }
+
+    private static Map<String, Object> buildJsonSchemaForTasks() {
         Map<String, Object> schema = new LinkedHashMap<>();
         schema.put("$schema", "http://json-schema.org/draft-07/schema#");
         schema.put("title", "Task");
@@ -71,11 +76,16 @@ public class McpService {
         Map<String, Object> out = new LinkedHashMap<>();
         Map<String, Long> byStatus = new LinkedHashMap<>();
         for (TaskStatus s : TaskStatus.values()) {
-            long c = taskRepository.countByStatus(s);
-            byStatus.put(s.name(), c);
+            byStatus.put(s.name(), 0L);
+        }
+        long total = 0;
+        for (Object[] row : taskRepository.countGroupedByStatus()) {
+            long c = (Long) row[1];
+            byStatus.put(((TaskStatus) row[0]).name(), c);
+            total += c;
         }
         out.put("byStatus", byStatus);
-        out.put("total", taskRepository.count());
+        out.put("total", total);
         return out;
     }
 
@@ -143,6 +153,7 @@ public class McpService {
         if (count > MAX_BATCH) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Generation limit is 1000");
         }
+        Faker faker = FakerHolder.FAKER;
         List<Task> list = new ArrayList<>();
         for (int i = 0; i < count; i++) {
             Task t = new Task();
@@ -163,6 +174,11 @@ public class McpService {
         return saved.stream().map(this::toResponse).collect(Collectors.toList());
     }
 
+    // Faker loads its locale YAML on construction; defer that until test data is actually generated.
+    private static final class FakerHolder {
+        static final Faker FAKER = new Faker(new Random());
+    }
+
     private TaskResponse toResponse(Task t) {
         return new TaskResponse(t.getId(), t.getTitle(), t.getDescription(), t.getStatus(), t.getDueDate());
     }
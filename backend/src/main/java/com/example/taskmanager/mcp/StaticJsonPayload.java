@@ -0,0 +1,37 @@
+package com.example.taskmanager.mcp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+/**
+ * A JSON body serialized once at startup, with a content-derived ETag. Spring MVC answers
+ * matching {@code If-None-Match} requests with 304 for ResponseEntity bodies carrying an ETag.
+ */
+final class StaticJsonPayload {
+
+    private final byte[] body;
+    private final String etag;
+
+    private StaticJsonPayload(byte[] body) {
+        this.body = body;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    static StaticJsonPayload of(ObjectMapper objectMapper, Object value) {
+        try {
+            return new StaticJsonPayload(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize static MCP payload", e);
+        }
+    }
+
+    ResponseEntity<byte[]> toResponse() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .body(body);
+    }
+}
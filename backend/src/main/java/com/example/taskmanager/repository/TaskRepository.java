@@ -3,8 +3,15 @@ package com.example.taskmanager.repository;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.model.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 	long countByStatus(TaskStatus status);
+
+	// One grouped query instead of countByStatus per status plus count().
+	@Query("select t.status, count(t) from Task t group by t.status")
+	List<Object[]> countGroupedByStatus();
 }
 
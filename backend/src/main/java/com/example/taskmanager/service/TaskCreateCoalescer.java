@@ -0,0 +1,204 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group-commit writer for single task creates. Concurrent callers are queued for at most
+ * {@code max-delay-ms} (or until {@code max-batch-size} is reached) and written in one transaction,
+ * so the commit cost is shared. If a batch fails on bad data, its tasks are retried one by one so
+ * each caller only sees its own error; any other failure fails the whole batch at once.
+ */
+@Component
+public class TaskCreateCoalescer implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCreateCoalescer.class);
+
+    private final TaskRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long maxDelayNanos;
+    private final int maxBatchSize;
+    private final long waitTimeoutMs;
+    private final BlockingQueue<PendingCreate> queue;
+    private final Thread worker;
+    private volatile boolean running;
+
+    public TaskCreateCoalescer(TaskRepository repository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.tasks.group-commit.enabled:false}") boolean enabled,
+                               @Value("${app.tasks.group-commit.max-delay-ms:5}") long maxDelayMs,
+                               @Value("${app.tasks.group-commit.max-batch-size:64}") int maxBatchSize,
+                               @Value("${app.tasks.group-commit.wait-timeout-ms:30000}") long waitTimeoutMs,
+                               @Value("${app.tasks.group-commit.max-queue-size:1024}") int maxQueueSize) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMs));
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, maxQueueSize));
+        if (enabled) {
+            this.running = true;
+            this.worker = new Thread(this::run, "task-group-commit");
+            this.worker.setDaemon(true);
+            this.worker.start();
+        } else {
+            this.worker = null;
+        }
+    }
+
+    public boolean isEnabled() { return enabled && running; }
+
+    /**
+     * Queues the task for the next group commit and waits for it to be written.
+     *
+     * @throws RejectedExecutionException if the queue is full or the worker is not running
+     * @throws TimeoutException if the task was still queued after {@code wait-timeout-ms}; it has
+     *         been withdrawn and will not be written. A task already taken into a batch is waited
+     *         for instead, since that batch may commit it.
+     * @throws ExecutionException if the batch (or this task's retry) failed
+     */
+    public Task save(Task task) throws ExecutionException, TimeoutException, InterruptedException {
+        PendingCreate pending = new PendingCreate(task, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new RejectedExecutionException(running ? "Group commit queue is full" : "Group commit is not running");
+        }
+        // The worker may have stopped (and the queue been drained) between the check above and the offer.
+        if (!running && queue.remove(pending)) {
+            throw new RejectedExecutionException("Group commit is not running");
+        }
+        try {
+            return pending.future().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | InterruptedException ex) {
+            if (queue.remove(pending)) throw ex;
+            boolean interrupted = ex instanceof InterruptedException;
+            try {
+                while (true) {
+                    try {
+                        return pending.future().get();
+                    } catch (InterruptedException again) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        try {
+            drainLoop(batch);
+        } catch (Throwable t) {
+            log.error("group-commit worker stopped", t);
+            fail(batch, t);
+            throw t;
+        } finally {
+            running = false;
+            failQueued(new IllegalStateException("Group commit is not running"));
+        }
+    }
+
+    private void drainLoop(List<PendingCreate> batch) {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingCreate> batch) {
+        List<Task> tasks = new ArrayList<>(batch.size());
+        for (PendingCreate p : batch) tasks.add(p.task());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.saveAll(tasks);
+                repository.flush();
+            });
+        } catch (RuntimeException ex) {
+            // Only a bad row is worth isolating; connection or transaction failures would just repeat per row.
+            if (batch.size() == 1 || !isDataError(ex)) {
+                fail(batch, ex);
+                return;
+            }
+            log.warn("group-commit batch failed size={}, retrying individually", batch.size(), ex);
+            for (PendingCreate p : batch) {
+                p.task().setId(null);
+                try {
+                    p.future().complete(transactionTemplate.execute(status -> repository.saveAndFlush(p.task())));
+                } catch (RuntimeException single) {
+                    p.future().completeExceptionally(single);
+                }
+            }
+            return;
+        }
+        for (PendingCreate p : batch) p.future().complete(p.task());
+        log.debug("group-commit flushed count={}", batch.size());
+    }
+
+    private static boolean isDataError(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof DataIntegrityViolationException || t instanceof ConstraintViolationException) return true;
+        }
+        return false;
+    }
+
+    private static void fail(List<PendingCreate> batch, Throwable cause) {
+        for (PendingCreate p : batch) p.future().completeExceptionally(cause);
+        batch.clear();
+    }
+
+    private void failQueued(Throwable cause) {
+        PendingCreate leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.future().completeExceptionally(cause);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (worker == null) return;
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        failQueued(new IllegalStateException("Group commit shut down"));
+    }
+
+    private record PendingCreate(Task task, CompletableFuture<Task> future) {}
+}
@@ -3,10 +3,11 @@ package com.example.taskmanager.service;
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.dto.TaskResponse;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public interface TaskService {
-    List<TaskResponse> getAll();
+    void writeAllJson(OutputStream out) throws IOException;
     TaskResponse getById(Long id);
     TaskResponse create(TaskRequest request);
     TaskResponse update(Long id, TaskRequest request);
@@ -1,26 +1,64 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.TaskJsonWriter;
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.exception.TaskNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.repository.TaskRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @Transactional
 public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository repository;
+    private final TaskCreateCoalescer coalescer;
+    private final TaskJsonWriter jsonWriter;
+    private final JdbcTemplate listQuery;
 
-    public TaskServiceImpl(TaskRepository repository) { this.repository = repository; }
+    public TaskServiceImpl(TaskRepository repository, TaskCreateCoalescer coalescer,
+                           TaskJsonWriter jsonWriter, DataSource dataSource) {
+        this.repository = repository;
+        this.coalescer = coalescer;
+        this.jsonWriter = jsonWriter;
+        this.listQuery = new JdbcTemplate(dataSource);
+        this.listQuery.setFetchSize(256);
+    }
 
+    // Plain JDBC rather than a JPA stream: hydrating an entity per row cost as much as the DTO list
+    // it replaced. The template joins the surrounding JPA transaction's connection, so the cursor
+    // stays open (and read-only) while rows are written.
     @Override
-    public List<TaskResponse> getAll() {
-        return repository.findAll().stream().map(this::toResponse).toList();
+    @Transactional(readOnly = true)
+    public void writeAllJson(OutputStream out) throws IOException {
+        try {
+            listQuery.query("select " + TaskJsonWriter.COLUMNS + " from tasks", (ResultSetExtractor<Void>) rows -> {
+                try {
+                    jsonWriter.writeArray(rows, out);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
     }
 
     @Override
@@ -29,11 +67,30 @@ public class TaskServiceImpl implements TaskService {
         return toResponse(task);
     }
 
+    // Not wrapped in a transaction of its own: with group commit enabled the caller must not hold
+    // a connection while waiting for the batch, and without it repository.save() opens its own.
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TaskResponse create(TaskRequest request) {
         Task task = new Task();
         apply(task, request);
-        return toResponse(repository.save(task));
+        if (!coalescer.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return toResponse(repository.save(task));
+        }
+        // Failures are wrapped here so every caller gets its own exception and stack trace,
+        // even when one batch failure is shared by the whole batch.
+        try {
+            return toResponse(coalescer.save(task));
+        } catch (RejectedExecutionException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), ex);
+        } catch (TimeoutException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Timed out waiting for group commit; task was not saved", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Group commit failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for group commit; task was not saved", ex);
+        }
     }
 
     @Override
@@ -45,8 +102,9 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public void delete(Long id) {
-        if (!repository.existsById(id)) throw new TaskNotFoundException(id);
-        repository.deleteById(id);
+        // findById + delete(entity): existsById + deleteById would select the row twice.
+        Task task = repository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+        repository.delete(task);
     }
 
     private void apply(Task task, TaskRequest request) {
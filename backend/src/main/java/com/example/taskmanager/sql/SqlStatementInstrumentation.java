@@ -0,0 +1,158 @@
+package com.example.taskmanager.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the application {@link DataSource} so every executed JDBC statement is counted and timed
+ * against the current {@link SqlStatementStats}. Statements slower than
+ * {@code app.sql.slow-query-threshold-ms} are logged as {@code slow-sql} samples; this replaces
+ * {@code spring.jpa.show-sql}, which printed every statement.
+ * <p>
+ * {@code app.sql.instrumentation.enabled} is checked here at runtime rather than with
+ * {@code @ConditionalOnProperty}, which AOT processing would fix at build time.
+ */
+@Component
+public class SqlStatementInstrumentation implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementInstrumentation.class);
+
+    private final boolean enabled;
+    private final long slowThresholdNanos;
+
+    public SqlStatementInstrumentation(@Value("${app.sql.instrumentation.enabled:true}") boolean enabled,
+                                       @Value("${app.sql.slow-query-threshold-ms:200}") long slowThresholdMs) {
+        this.enabled = enabled;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return proxy(bean, ClassUtils.getAllInterfaces(bean), new DataSourceHandler(bean));
+        }
+        return bean;
+    }
+
+    private static Object proxy(Object target, Class<?>[] interfaces, InvocationHandler handler) {
+        return Proxy.newProxyInstance(SqlStatementInstrumentation.class.getClassLoader(), interfaces, handler);
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+        final Object target;
+
+        DelegatingHandler(Object target) { this.target = target; }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("equals") && args != null && args.length == 1) return proxy == args[0];
+            return handle(method, args);
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private final class DataSourceHandler extends DelegatingHandler {
+        DataSourceHandler(Object target) { super(target); }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(target, method, args);
+            return result instanceof Connection
+                    ? proxy(result, new Class<?>[] { Connection.class }, new ConnectionHandler(result))
+                    : result;
+        }
+    }
+
+    private final class ConnectionHandler extends DelegatingHandler {
+        ConnectionHandler(Object target) { super(target); }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(target, method, args);
+            if (result instanceof Statement) {
+                String sql = method.getName().startsWith("prepare") && args != null ? (String) args[0] : null;
+                Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                        : result instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return proxy(result, new Class<?>[] { type }, new StatementHandler(result, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler extends DelegatingHandler {
+        private final String preparedSql;
+
+        StatementHandler(Object target, String preparedSql) {
+            super(target);
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = delegate(target, method, args);
+                // Only query results count as rows; getGeneratedKeys() is part of the insert itself.
+                return name.equals("getResultSet") && result != null ? resultSet(result) : result;
+            }
+            SqlStatementStats stats = SqlStatementStats.current();
+            long start = System.nanoTime();
+            Object result = delegate(target, method, args);
+            long elapsed = System.nanoTime() - start;
+            if (stats != null) {
+                stats.recordStatement(elapsed);
+                if (result instanceof Integer n) stats.recordRows(Math.max(0, n));
+                else if (result instanceof Long n) stats.recordRows(Math.max(0, n));
+                else if (result instanceof int[] counts) for (int n : counts) stats.recordRows(Math.max(0, n));
+            }
+            if (elapsed >= slowThresholdNanos) {
+                String sql = preparedSql != null ? preparedSql : (args != null && args.length > 0 ? String.valueOf(args[0]) : "<batch>");
+                log.warn("slow-sql elapsedMs={} request=\"{}\" sql=\"{}\"", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                        stats != null ? stats.getLabel() : "-", sql);
+            }
+            return result instanceof ResultSet ? resultSet(result) : result;
+        }
+    }
+
+    private static Object resultSet(Object target) {
+        return proxy(target, new Class<?>[] { ResultSet.class }, new ResultSetHandler(target));
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+        private final SqlStatementStats stats = SqlStatementStats.current();
+
+        ResultSetHandler(Object target) { super(target); }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(target, method, args);
+            if (stats != null && method.getName().equals("next") && Boolean.TRUE.equals(result)) stats.recordRows(1);
+            return result;
+        }
+    }
+}
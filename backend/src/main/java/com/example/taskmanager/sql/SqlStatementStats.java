@@ -0,0 +1,48 @@
+package com.example.taskmanager.sql;
+
+/**
+ * Statement count, row count and JDBC time for one unit of work (normally one HTTP request).
+ * Bound to the current thread by {@link SqlStatementStatsFilter}; statements run on other
+ * threads (e.g. the group-commit writer) are not attributed to the request.
+ */
+public final class SqlStatementStats {
+
+    /** Request attribute under which the filter exposes the finished stats. */
+    public static final String REQUEST_ATTRIBUTE = SqlStatementStats.class.getName();
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final String label;
+    private int statements;
+    private long rows;
+    private long elapsedNanos;
+
+    private SqlStatementStats(String label) { this.label = label; }
+
+    public static SqlStatementStats begin(String label) {
+        SqlStatementStats stats = new SqlStatementStats(label);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats current() { return CURRENT.get(); }
+
+    public static void end() { CURRENT.remove(); }
+
+    void recordStatement(long nanos) {
+        statements++;
+        elapsedNanos += nanos;
+    }
+
+    void recordRows(long count) { rows += count; }
+
+    public String getLabel() { return label; }
+    public int getStatements() { return statements; }
+    public long getRows() { return rows; }
+    public long getElapsedMillis() { return elapsedNanos / 1_000_000; }
+
+    @Override
+    public String toString() {
+        return "statements=" + statements + " rows=" + rows + " timeMs=" + getElapsedMillis();
+    }
+}
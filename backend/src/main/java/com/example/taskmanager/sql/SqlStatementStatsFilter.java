@@ -0,0 +1,42 @@
+package com.example.taskmanager.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Switched at runtime (not @ConditionalOnProperty) so the setting still applies to an AOT-built jar.
+@Component
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementStatsFilter.class);
+
+    @Value("${app.sql.instrumentation.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin(request.getMethod() + " " + request.getRequestURI());
+        request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.end();
+            if (stats.getStatements() > 0) {
+                log.debug("sql-request request=\"{}\" status={} {}", stats.getLabel(), response.getStatus(), stats);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+-- Matches the schema previously created by ddl-auto=update, so existing databases migrate cleanly.
+CREATE TABLE IF NOT EXISTS tasks (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(100),
+    description VARCHAR(500),
+    status      VARCHAR(255) NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    due_date    DATE
+);
@@ -0,0 +1,62 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "MCP_TOKEN=mcp-test-token")
+@AutoConfigureMockMvc
+class McpControllerTest {
+
+    private static final String AUTH = "Bearer mcp-test-token";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void staticPayloadsKeepTheirContentAndCarryEtags() throws Exception {
+        String statuses = String.join(",", Arrays.stream(TaskStatus.values()).map(s -> "\"" + s.name() + "\"").toList());
+        assertPayload("/api/mcp/mcp-spec", """
+                {"specVersion":"2025-06-18","tools":["mcp-schema-tasks","mcp-tasks","mcp-tasks-summary","mcp-help"]}""");
+        assertPayload("/api/mcp/mcp-help", """
+                {"mcp-schema-tasks":"GET /api/mcp/mcp-schema-tasks - returns simplified JSON-Schema for Task objects",
+                 "mcp-tasks":"POST /api/mcp/mcp-tasks - accepts JSON array of TaskRequest and inserts them into DB (max 1000 items)",
+                 "mcp-tasks-summary":"GET /api/mcp/mcp-tasks-summary - returns task counts per status and total",
+                 "mcp-help":"GET /api/mcp/mcp-help - returns this help map"}""");
+        assertPayload("/api/mcp/mcp-schema-tasks", """
+                {"$schema":"http://json-schema.org/draft-07/schema#","title":"Task","type":"object",
+                 "properties":{"title":{"type":"string","maxLength":100},
+                               "description":{"type":"string","maxLength":500},
+                               "status":{"type":"string","enum":[%s]},
+                               "dueDate":{"type":"string","format":"date"}},
+                 "required":["title"]}""".formatted(statuses));
+    }
+
+    private void assertPayload(String path, String expectedJson) throws Exception {
+        MvcResult first = mvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, AUTH))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(expectedJson, true))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"").endsWith("\"");
+
+        mvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, AUTH).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.sql.SqlStatementStats;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test support for asserting how many SQL statements an endpoint executes. Reads the stats that
+ * {@code SqlStatementStatsFilter} stores on the request, so it works with MockMvc results.
+ */
+final class SqlBudget {
+
+    private SqlBudget() { }
+
+    static SqlStatementStats statsOf(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE);
+        assertThat(stats).as("SQL stats for request (is instrumentation enabled?)").isInstanceOf(SqlStatementStats.class);
+        return (SqlStatementStats) stats;
+    }
+
+    static void assertStatements(MvcResult result, int expected) {
+        SqlStatementStats stats = statsOf(result);
+        assertThat(stats.getStatements()).as("SQL statements for %s (%s)", stats.getLabel(), stats).isEqualTo(expected);
+    }
+
+    static void assertAtMost(MvcResult result, int max) {
+        SqlStatementStats stats = statsOf(result);
+        assertThat(stats.getStatements()).as("SQL statements for %s (%s)", stats.getLabel(), stats).isLessThanOrEqualTo(max);
+    }
+}
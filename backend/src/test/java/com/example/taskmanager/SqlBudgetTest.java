@@ -0,0 +1,64 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "MCP_TOKEN=budget-token")
+@AutoConfigureMockMvc
+class SqlBudgetTest {
+
+    private static final String AUTH = "Bearer budget-token";
+    private static final String TASK_JSON = "{\"title\":\"Budget\",\"status\":\"TODO\"}";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void taskEndpointsStayWithinBudget() throws Exception {
+        Long id = existingTaskId();
+
+        SqlBudget.assertStatements(call(get("/api/tasks")), 1);
+        SqlBudget.assertStatements(call(get("/api/tasks/" + id)), 1);
+        SqlBudget.assertStatements(call(post("/api/tasks").contentType(MediaType.APPLICATION_JSON).content(TASK_JSON)), 1);
+        SqlBudget.assertStatements(call(put("/api/tasks/" + id).contentType(MediaType.APPLICATION_JSON).content(TASK_JSON)), 2);
+        SqlBudget.assertStatements(call(delete("/api/tasks/" + id)), 2);
+    }
+
+    @Test
+    void mcpEndpointsStayWithinBudget() throws Exception {
+        SqlBudget.assertStatements(call(get("/api/mcp/mcp-schema-tasks").header(HttpHeaders.AUTHORIZATION, AUTH)), 0);
+        SqlBudget.assertStatements(call(get("/api/mcp/mcp-help").header(HttpHeaders.AUTHORIZATION, AUTH)), 0);
+        SqlBudget.assertStatements(call(get("/api/mcp/mcp-spec").header(HttpHeaders.AUTHORIZATION, AUTH)), 0);
+        SqlBudget.assertStatements(call(get("/api/mcp/mcp-tasks-summary").header(HttpHeaders.AUTHORIZATION, AUTH)), 1);
+        // Task ids use IDENTITY generation, so inserts are one statement per row.
+        SqlBudget.assertAtMost(call(post("/api/mcp/mcp-tasks").header(HttpHeaders.AUTHORIZATION, AUTH)
+                .contentType(MediaType.APPLICATION_JSON).content("[" + TASK_JSON + "," + TASK_JSON + "," + TASK_JSON + "]")), 3);
+    }
+
+    private MvcResult call(RequestBuilder request) throws Exception {
+        return mvc.perform(request).andExpect(status().is2xxSuccessful()).andReturn();
+    }
+
+    private Long existingTaskId() {
+        TaskRequest req = new TaskRequest();
+        req.setTitle("Budget seed");
+        TaskResponse created = taskService.create(req);
+        return created.getId();
+    }
+}
@@ -2,12 +2,16 @@ package com.example.taskmanager;
 
 import com.example.taskmanager.dto.TaskRequest;
 import com.example.taskmanager.model.TaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.*;
 
+import java.time.LocalDate;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -16,6 +20,9 @@ class TaskControllerIntegrationTest {
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void fullCrudLifecycle() {
         // Create
@@ -55,5 +62,24 @@ class TaskControllerIntegrationTest {
         ResponseEntity<String> get404 = restTemplate.getForEntity("/api/tasks/" + id, String.class);
         assertThat(get404.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
-}
 
+    // GET /api/tasks is written by TaskJsonWriter, GET /api/tasks/{id} by Jackson; they must agree.
+    @Test
+    void streamedListElementMatchesSingleTaskResponse() throws Exception {
+        TaskRequest req = new TaskRequest();
+        req.setTitle("Shape \"check\"");
+        req.setStatus(TaskStatus.DONE);
+        req.setDueDate(LocalDate.of(2025, 3, 4));
+        JsonNode created = objectMapper.readTree(restTemplate.postForEntity("/api/tasks", req, String.class).getBody());
+        long id = created.get("id").asLong();
+
+        JsonNode single = objectMapper.readTree(restTemplate.getForEntity("/api/tasks/" + id, String.class).getBody());
+        JsonNode fromList = null;
+        for (JsonNode node : objectMapper.readTree(restTemplate.getForEntity("/api/tasks", String.class).getBody())) {
+            if (node.get("id").asLong() == id) fromList = node;
+        }
+        assertThat(fromList).isEqualTo(single);
+        assertThat(single.get("description").isNull()).isTrue();
+        assertThat(single.get("dueDate").asText()).isEqualTo("2025-03-04");
+    }
+}
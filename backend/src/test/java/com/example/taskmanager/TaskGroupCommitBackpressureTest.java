@@ -0,0 +1,103 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+// One create at a time, so the first one's commit can be held open while later ones queue behind it.
+@SpringBootTest(properties = {
+        "app.tasks.group-commit.enabled=true",
+        "app.tasks.group-commit.max-delay-ms=0",
+        "app.tasks.group-commit.max-batch-size=1",
+        "app.tasks.group-commit.max-queue-size=1",
+        "app.tasks.group-commit.wait-timeout-ms=300"
+})
+class TaskGroupCommitBackpressureTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @SpyBean
+    private PlatformTransactionManager transactionManager;
+
+    private final CountDownLatch writerBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseWriter = new CountDownLatch(1);
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void holdFirstGroupCommit() {
+        AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(inv -> {
+            if (Thread.currentThread().getName().equals("task-group-commit") && first.compareAndSet(true, false)) {
+                writerBlocked.countDown();
+                releaseWriter.await(10, TimeUnit.SECONDS);
+            }
+            return inv.callRealMethod();
+        }).when(transactionManager).getTransaction(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseWriter.countDown();
+        pool.shutdownNow();
+    }
+
+    @Test
+    void timedOutCreateIsWithdrawnAndFullQueueIsRejected() throws Exception {
+        String inFlight = "in-flight " + UUID.randomUUID();
+        String queued = "queued " + UUID.randomUUID();
+        Future<TaskResponse> first = pool.submit(() -> taskService.create(request(inFlight)));
+        assertThat(writerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<TaskResponse> second = pool.submit(() -> taskService.create(request(queued)));
+        Thread.sleep(50);
+        // The queue (size 1) now holds the second create, so a third is rejected without waiting.
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> taskService.create(request("rejected")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(200);
+
+        assertThatThrownBy(second::get).hasCauseInstanceOf(ResponseStatusException.class);
+
+        // The first create timed out too, but it was already in the batch being written, so it waits for it.
+        releaseWriter.countDown();
+        TaskResponse written = first.get(5, TimeUnit.SECONDS);
+        assertThat(taskService.getById(written.getId()).getTitle()).isEqualTo(inFlight);
+
+        Thread.sleep(200);
+        assertThat(taskRepository.findAll()).noneMatch(t -> t.getTitle().equals(queued));
+    }
+
+    private static TaskRequest request(String title) {
+        TaskRequest req = new TaskRequest();
+        req.setTitle(title);
+        return req;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.service.TaskService;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "app.tasks.group-commit.enabled=true",
+        "app.tasks.group-commit.max-delay-ms=200"
+})
+class TaskGroupCommitTest {
+
+    private static final int TASKS = 32;
+
+    @Autowired
+    private TaskService taskService;
+
+    @SpyBean
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentCreatesShareCommitsAndEachGetTheirOwnTask() throws Exception {
+        Mockito.clearInvocations(transactionManager);
+        List<Future<TaskResponse>> futures = createConcurrently(TASKS, -1);
+
+        for (int i = 0; i < futures.size(); i++) {
+            TaskResponse created = futures.get(i).get();
+            assertThat(created.getId()).isNotNull();
+            assertThat(created.getTitle()).isEqualTo("Grouped " + i);
+        }
+        assertThat(commits()).isGreaterThan(0).isLessThan(TASKS / 2);
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(taskService.getById(futures.get(i).get().getId()).getTitle()).isEqualTo("Grouped " + i);
+        }
+    }
+
+    @Test
+    void invalidTaskOnlyFailsItsOwnCaller() throws Exception {
+        int bad = 5;
+        List<Future<TaskResponse>> futures = createConcurrently(16, bad);
+
+        for (int i = 0; i < futures.size(); i++) {
+            Future<TaskResponse> f = futures.get(i);
+            if (i == bad) {
+                assertThatThrownBy(f::get).isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(IllegalStateException.class)
+                        .hasRootCauseInstanceOf(ConstraintViolationException.class);
+            } else {
+                assertThat(f.get().getId()).isNotNull();
+                assertThat(f.get().getTitle()).isEqualTo("Grouped " + i);
+            }
+        }
+    }
+
+    // Calls TaskService directly, so the blank title is only caught by the entity's @NotBlank at flush.
+    private List<Future<TaskResponse>> createConcurrently(int count, int blankIndex) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(count);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TaskResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                TaskRequest req = new TaskRequest();
+                req.setTitle(i == blankIndex ? " " : "Grouped " + i);
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return taskService.create(req);
+                }));
+            }
+            start.countDown();
+            for (Future<TaskResponse> f : futures) {
+                try {
+                    f.get();
+                } catch (ExecutionException ignored) {
+                    // asserted by the caller
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return futures;
+    }
+
+    // create() itself runs with SUPPORTS propagation, which also calls commit() on an empty status; skip those.
+    private long commits() {
+        return Mockito.mockingDetails(transactionManager).getInvocations().stream()
+                .filter(inv -> inv.getMethod().getName().equals("commit"))
+                .filter(inv -> ((TransactionStatus) inv.getArgument(0)).isNewTransaction())
+                .count();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.dto.TaskJsonWriter;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// @JsonTest gives the ObjectMapper Spring Boot configures for MVC, so the expected output is real.
+@JsonTest
+class TaskJsonWriterTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TaskJsonWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new TaskJsonWriter(objectMapper);
+    }
+
+    @Test
+    void streamedJsonMatchesDtoSerialization() throws Exception {
+        List<Task> tasks = tasks(50);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:json-writer");
+             Statement ddl = conn.createStatement()) {
+            ddl.execute("create table tasks (id bigint primary key, title varchar(100), description varchar(500), "
+                    + "status varchar(255) not null, due_date date)");
+            try (PreparedStatement insert = conn.prepareStatement("insert into tasks (" + TaskJsonWriter.COLUMNS + ") values (?, ?, ?, ?, ?)")) {
+                for (Task t : tasks) {
+                    insert.setLong(1, t.getId());
+                    insert.setString(2, t.getTitle());
+                    insert.setString(3, t.getDescription());
+                    insert.setString(4, t.getStatus().name());
+                    insert.setObject(5, t.getDueDate());
+                    insert.executeUpdate();
+                }
+            }
+            try (ResultSet rows = ddl.executeQuery("select " + TaskJsonWriter.COLUMNS + " from tasks order by id")) {
+                writer.writeArray(rows, out);
+            }
+        }
+
+        String expected = objectMapper.writeValueAsString(tasks.stream().map(TaskJsonWriterTest::toResponse).toList());
+        assertThat(out.toString()).isEqualTo(expected).contains("\"dueDate\":\"2025-01-02\"");
+    }
+
+    private static List<Task> tasks(int count) {
+        TaskStatus[] statuses = TaskStatus.values();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task t = new Task();
+            t.setId((long) i + 1);
+            t.setTitle("Task \"" + i + "\"");
+            t.setDescription(i % 3 == 0 ? null : "Description for task " + i);
+            t.setStatus(statuses[i % statuses.length]);
+            t.setDueDate(i % 4 == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            tasks.add(t);
+        }
+        return tasks;
+    }
+
+    private static TaskResponse toResponse(Task t) {
+        return new TaskResponse(t.getId(), t.getTitle(), t.getDescription(), t.getStatus(), t.getDueDate());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.taskmanager;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskStatus;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the GET /api/tasks body production against a seeded table: the streaming path
+ * ({@code TaskService.writeAllJson}: JDBC cursor straight into a JsonGenerator) versus the previous one
+ * ({@code findAll()} into a {@code List<TaskResponse>}, then Jackson). Both run in a read-only
+ * transaction against the configured datasource; rounds alternate which side goes first.
+ * Run with {@code mvn test -Dtest=TaskListBenchmarkTest -Dbenchmark=true} (plus H2 datasource settings).
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskListBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskListBenchmarkTest.class);
+    private static final int ROWS = 10_000;
+    private static final int WARMUP = 30;
+    private static final int ROUNDS = 10;
+    private static final int OPS_PER_ROUND = 10;
+
+    // Jackson closes the target after writeValue, so the sink must tolerate writes after close.
+    private static final OutputStream SINK = new OutputStream() {
+        @Override public void write(int b) { }
+        @Override public void write(byte[] b, int off, int len) { }
+    };
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private List<Task> seeded;
+
+    @BeforeAll
+    void seed() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TaskStatus[] statuses = TaskStatus.values();
+        List<Task> tasks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Task t = new Task();
+            t.setTitle("Benchmark task " + i);
+            t.setDescription(i % 3 == 0 ? null : "Description for benchmark task number " + i);
+            t.setStatus(statuses[i % statuses.length]);
+            t.setDueDate(i % 4 == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            tasks.add(t);
+        }
+        seeded = taskRepository.saveAll(tasks);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        // By id: deleteAllInBatch(entities) builds one OR term per row, which overflows the HQL parser.
+        taskRepository.deleteAllByIdInBatch(seeded.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void streamingBeatsDtoListOnSeededTable() {
+        Runnable dtoList = () -> readOnly.executeWithoutResult(status -> {
+            List<TaskResponse> list = taskRepository.findAll().stream()
+                    .map(t -> new TaskResponse(t.getId(), t.getTitle(), t.getDescription(), t.getStatus(), t.getDueDate()))
+                    .toList();
+            try {
+                objectMapper.writeValue(SINK, list);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        Runnable streaming = () -> {
+            try {
+                taskService.writeAllJson(SINK);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        for (int i = 0; i < WARMUP; i++) {
+            dtoList.run();
+            streaming.run();
+        }
+        long[][] dto = new long[2][ROUNDS];
+        long[][] streamed = new long[2][ROUNDS];
+        for (int r = 0; r < ROUNDS; r++) {
+            if (r % 2 == 0) {
+                measure(dtoList, dto, r);
+                measure(streaming, streamed, r);
+            } else {
+                measure(streaming, streamed, r);
+                measure(dtoList, dto, r);
+            }
+        }
+
+        long dtoNanos = median(dto[0]), dtoBytes = median(dto[1]);
+        long streamNanos = median(streamed[0]), streamBytes = median(streamed[1]);
+        log.info("benchmark rows={} dto-list: median {} us/op, {} KB/op", ROWS, dtoNanos / 1000, dtoBytes / 1024);
+        log.info("benchmark rows={} streaming: median {} us/op, {} KB/op", ROWS, streamNanos / 1000, streamBytes / 1024);
+
+        assertThat(streamBytes).isLessThan(dtoBytes);
+        assertThat(streamNanos).isLessThan(dtoNanos);
+    }
+
+    private static void measure(Runnable op, long[][] out, int round) {
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+        long bytesBefore = mx.getThreadAllocatedBytes(tid);
+        long start = System.nanoTime();
+        for (int i = 0; i < OPS_PER_ROUND; i++) op.run();
+        out[0][round] = (System.nanoTime() - start) / OPS_PER_ROUND;
+        out[1][round] = (mx.getThreadAllocatedBytes(tid) - bytesBefore) / OPS_PER_ROUND;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
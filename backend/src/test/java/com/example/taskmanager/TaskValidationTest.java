@@ -1,12 +1,15 @@
 package com.example.taskmanager;
 
 import com.example.taskmanager.dto.TaskRequest;
+import com.example.taskmanager.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,6 +19,9 @@ class TaskValidationTest {
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void blankTitleShouldFailValidation() {
         TaskRequest req = new TaskRequest();
@@ -25,5 +31,10 @@ class TaskValidationTest {
         assertThat(resp.getBody()).contains("Title is required");
         assertThat(resp.getBody()).contains("fieldErrors");
     }
-}
 
+    @Test
+    void errorKeyIsKeptWhenReasonIsMissing() throws Exception {
+        Object body = new GlobalExceptionHandler().handleResponseStatus(new ResponseStatusException(HttpStatus.CONFLICT)).getBody();
+        assertThat(objectMapper.writeValueAsString(body)).isEqualTo("{\"error\":null,\"type\":\"409 CONFLICT\"}");
+    }
+}
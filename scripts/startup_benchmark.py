@@ -0,0 +1,91 @@
+#!/usr/bin/env python3
+"""
+Measure backend startup time and first-request latency.
+
+Starts the given command RUNS times, polls GET /api/tasks until it answers 200 and reports:
+  - started: "Started TaskManagerApplication in X seconds" from the log
+  - ready:   wall time from launch until the first 200 response
+  - first:   latency of that first successful request
+
+Usage:
+  python3 scripts/startup_benchmark.py [runs] -- <command...>
+
+Examples:
+  # plain jar
+  python3 scripts/startup_benchmark.py 5 -- java -jar backend/target/task-manager-backend-1.0.0.jar
+  # fast-start image (docker compose up -d postgres first)
+  python3 scripts/startup_benchmark.py 5 -- docker run --rm --network host \
+      -e SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/tasksdb task-manager-backend
+"""
+import re
+import statistics
+import subprocess
+import sys
+import threading
+import time
+from urllib import request, error
+
+URL = 'http://localhost:8080/api/tasks'
+TIMEOUT = 120
+STARTED = re.compile(r'Started TaskManagerApplication in ([\d.]+) seconds')
+
+
+def parse_args():
+    args = sys.argv[1:]
+    if '--' not in args:
+        print(__doc__)
+        sys.exit(1)
+    sep = args.index('--')
+    runs = int(args[0]) if sep > 0 else 3
+    return runs, args[sep + 1:]
+
+
+def run_once(cmd):
+    started = {}
+    proc = subprocess.Popen(cmd, stdout=subprocess.PIPE, stderr=subprocess.STDOUT, text=True)
+
+    def read_log():
+        for line in proc.stdout:
+            m = STARTED.search(line)
+            if m:
+                started['seconds'] = float(m.group(1))
+
+    threading.Thread(target=read_log, daemon=True).start()
+    launch = time.monotonic()
+    try:
+        while time.monotonic() - launch < TIMEOUT:
+            sent = time.monotonic()
+            try:
+                with request.urlopen(URL, timeout=10) as resp:
+                    resp.read()
+                    if resp.status == 200:
+                        done = time.monotonic()
+                        return started.get('seconds'), done - launch, done - sent
+            except (error.URLError, ConnectionError, TimeoutError):
+                time.sleep(0.05)
+        raise RuntimeError(f'No 200 from {URL} within {TIMEOUT}s')
+    finally:
+        proc.terminate()
+        try:
+            proc.wait(timeout=30)
+        except subprocess.TimeoutExpired:
+            proc.kill()
+
+
+def main():
+    runs, cmd = parse_args()
+    results = []
+    for i in range(runs):
+        started, ready, first = run_once(cmd)
+        results.append((started, ready, first))
+        print(f'run {i + 1}: started={started}s ready={ready:.2f}s first={first * 1000:.0f}ms')
+
+    ready = [r[1] for r in results]
+    first = [r[2] * 1000 for r in results]
+    started = [r[0] for r in results if r[0] is not None]
+    print(f'median: started={statistics.median(started) if started else "n/a"}s '
+          f'ready={statistics.median(ready):.2f}s first={statistics.median(first):.0f}ms')
+
+
+if __name__ == '__main__':
+    main()